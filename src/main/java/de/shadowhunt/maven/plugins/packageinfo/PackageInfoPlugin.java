@@ -22,11 +22,15 @@ import java.io.FileFilter;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.Writer;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Set;
+import java.util.TreeSet;
 
 import org.apache.commons.io.output.FileWriterWithEncoding;
 import org.apache.commons.lang.StringUtils;
+import org.apache.maven.execution.MavenSession;
 import org.apache.maven.plugin.AbstractMojo;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.MojoFailureException;
@@ -74,18 +78,6 @@ public class PackageInfoPlugin extends AbstractMojo {
         }
     }
 
-    static boolean doesFileAlreadyExistInSourceRoots(final String filename, final File base, final List<String> compileSourceFolders) {
-        for (final String compileSourceFolder : compileSourceFolders) {
-            final File folder = new File(compileSourceFolder);
-            final File root = makeFileAbsolute(base, folder);
-            final File file = new File(root, filename);
-            if (file.isFile()) {
-                return true;
-            }
-        }
-        return false;
-    }
-
     static final File makeFileAbsolute(final File base, final File file) {
         if (file.isAbsolute()) {
             return file;
@@ -137,6 +129,12 @@ public class PackageInfoPlugin extends AbstractMojo {
     @Parameter(property = "project", required = true, readonly = true)
     protected MavenProject project;
 
+    /**
+     * The current build session.
+     */
+    @Parameter(defaultValue = "${session}", required = true, readonly = true)
+    private MavenSession session;
+
     @Override
     public void execute() throws MojoExecutionException, MojoFailureException {
         final Log log = getLog();
@@ -148,14 +146,29 @@ public class PackageInfoPlugin extends AbstractMojo {
             }
 
             final File base = project.getBasedir();
+            final SourceRootScanCache cache = getSourceRootScanCache();
+            final Set<String> packagePaths = new TreeSet<>();
+            final Set<String> packageInfoPaths = new HashSet<>();
             for (final String compileSourceFolder : compileSourceRoots) {
                 final File folder = new File(compileSourceFolder);
                 final File root = makeFileAbsolute(base, folder);
                 log.debug("checking " + root + " for missing package-info.java files");
-                processFolder(root, root);
+                final SourceRootScan scan = cache.get(root);
+                packagePaths.addAll(scan.getPackages());
+                packageInfoPaths.addAll(scan.getPackageInfos());
             }
 
             final File absoluteOutputDirectory = makeFileAbsolute(base, outputDirectory);
+            for (final String packagePath : packagePaths) {
+                if (packageInfoPaths.contains(packagePath)) {
+                    // don't generate file in outputDirectory if it already exists in one of the compileSourceRoots
+                    continue;
+                }
+                generateDefaultPackageInfo(absoluteOutputDirectory, packagePath);
+            }
+            // generated files are not visible in cached scans of the outputDirectory or of source roots containing it
+            cache.invalidate(absoluteOutputDirectory);
+
             final String outputPath = absoluteOutputDirectory.getAbsolutePath();
             project.addCompileSourceRoot(outputPath);
         } catch (final IOException e) {
@@ -163,19 +176,13 @@ public class PackageInfoPlugin extends AbstractMojo {
         }
     }
 
-    void generateDefaultPackageInfo(final File base, final String relativePath) throws IOException {
+    void generateDefaultPackageInfo(final File absoluteOutputDirectory, final String relativePath) throws IOException {
         if (StringUtils.isEmpty(relativePath)) {
             // default package can't have package-info.java
             return;
         }
 
-        final String filename = relativePath + File.separator + "package-info.java";
-        if (doesFileAlreadyExistInSourceRoots(filename, base, compileSourceRoots)) {
-            // don't generate file in outputDirectory if it already exists in one of the compileSourceRoots
-            return;
-        }
-
-        final File absoluteOutputDirectory = makeFileAbsolute(base, outputDirectory);
+        final String filename = relativePath + File.separator + SourceRootScan.PACKAGE_INFO;
         final File packageInfo = new File(absoluteOutputDirectory, filename);
         createNecessaryDirectories(packageInfo);
 
@@ -196,24 +203,21 @@ public class PackageInfoPlugin extends AbstractMojo {
         }
     }
 
-    void processFolder(final File folder, final File base) throws IOException {
-        if (!folder.isDirectory()) {
-            return;
-        }
-
-        final File[] children = folder.listFiles();
-        if (children == null) {
-            return;
-        }
-
-        if (containsFiles(JAVA_FILTER, children)) {
-            final String relativePath = toRelativePath(base, folder);
-            generateDefaultPackageInfo(base, relativePath);
+    /**
+     * Scans of the compileSourceRoots are kept in the project context, so all executions of the current session in the same module share them.
+     */
+    SourceRootScanCache getSourceRootScanCache() {
+        final Object cache = project.getContextValue(SourceRootScanCache.CONTEXT_KEY);
+        if (cache instanceof SourceRootScanCache) {
+            final SourceRootScanCache sourceRootScanCache = (SourceRootScanCache) cache;
+            if (sourceRootScanCache.belongsTo(session)) {
+                return sourceRootScanCache;
+            }
         }
 
-        for (final File child : children) {
-            processFolder(child, base);
-        }
+        final SourceRootScanCache newCache = new SourceRootScanCache(session);
+        project.setContextValue(SourceRootScanCache.CONTEXT_KEY, newCache);
+        return newCache;
     }
 
     public void setCompileSourceRoots(final List<String> compileSourceRoots) {
@@ -235,4 +239,8 @@ public class PackageInfoPlugin extends AbstractMojo {
     public void setProject(final MavenProject project) {
         this.project = project;
     }
+
+    public void setSession(final MavenSession session) {
+        this.session = session;
+    }
 }
@@ -0,0 +1,116 @@
+/**
+ * Maven package-info.java Plugin - Autogenerates package-info.java files with arbitrary headers
+ * Copyright © 2012-2018 shadowhunt (dev@shadowhunt.de)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.shadowhunt.maven.plugins.packageinfo;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Result of walking a single source root: all packages containing java files and all packages that already contain a package-info.java.
+ */
+final class SourceRootScan {
+
+    static final String PACKAGE_INFO = "package-info.java";
+
+    /**
+     * Coarsest modification time resolution to expect (FAT, {@link File#lastModified()} on JDK 8 only has seconds).
+     */
+    static final long TIMESTAMP_GRANULARITY = 2000L;
+
+    static SourceRootScan scan(final File root) {
+        final SourceRootScan scan = new SourceRootScan(System.currentTimeMillis());
+        // also record a nonexistent root, so its later creation is detected
+        scan.lastModified.put(root, root.lastModified());
+        scan.processFolder(root, root);
+        return scan;
+    }
+
+    /**
+     * Modification time of each visited directory, a directory's modification time changes when entries are added or removed.
+     */
+    private final Map<File, Long> lastModified = new HashMap<>();
+
+    private final Set<String> packageInfos = new HashSet<>();
+
+    private final Set<String> packages = new HashSet<>();
+
+    private final long started;
+
+    private SourceRootScan(final long started) {
+        this.started = started;
+    }
+
+    /**
+     * Relative paths of all packages that already contain a package-info.java.
+     */
+    Set<String> getPackageInfos() {
+        return Collections.unmodifiableSet(packageInfos);
+    }
+
+    /**
+     * Relative paths of all packages that contain at least one java file.
+     */
+    Set<String> getPackages() {
+        return Collections.unmodifiableSet(packages);
+    }
+
+    /**
+     * Compares the modification times of all visited directories, so added or removed packages and package-info.java files at any depth are
+     * detected without walking the source root again. Like git's "racily clean" index entries, a directory that was modified within the
+     * timestamp granularity of the scan can't be verified by its modification time, so the scan is considered outdated.
+     */
+    boolean isCurrent() {
+        final long racy = started - TIMESTAMP_GRANULARITY;
+        for (final Map.Entry<File, Long> entry : lastModified.entrySet()) {
+            final File folder = entry.getKey();
+            final long expected = entry.getValue();
+            if ((expected >= racy) || (folder.lastModified() != expected)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void processFolder(final File folder, final File base) {
+        if (!folder.isDirectory()) {
+            return;
+        }
+
+        lastModified.put(folder, folder.lastModified());
+        final File[] children = folder.listFiles();
+        if (children == null) {
+            return;
+        }
+
+        if (PackageInfoPlugin.containsFiles(PackageInfoPlugin.JAVA_FILTER, children)) {
+            final String relativePath = PackageInfoPlugin.toRelativePath(base, folder);
+            packages.add(relativePath);
+            if (new File(folder, PACKAGE_INFO).isFile()) {
+                packageInfos.add(relativePath);
+            }
+        }
+
+        for (final File child : children) {
+            processFolder(child, base);
+        }
+    }
+}
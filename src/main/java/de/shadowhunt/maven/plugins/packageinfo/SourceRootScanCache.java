@@ -0,0 +1,96 @@
+/**
+ * Maven package-info.java Plugin - Autogenerates package-info.java files with arbitrary headers
+ * Copyright © 2012-2018 shadowhunt (dev@shadowhunt.de)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.shadowhunt.maven.plugins.packageinfo;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.maven.execution.MavenSession;
+
+/**
+ * Keeps the {@link SourceRootScan} of each source root, so multiple executions in the same module don't have to walk the same source roots again.
+ */
+final class SourceRootScanCache {
+
+    /**
+     * Key under which the cache is stored in the context of the {@link org.apache.maven.project.MavenProject}.
+     */
+    static final String CONTEXT_KEY = SourceRootScanCache.class.getName();
+
+    /**
+     * Normalized absolute path (with resolved symbolic links, if the file exists) to compare files independent of their spelling.
+     */
+    static Path toKey(final File file) {
+        final Path path = file.toPath();
+        final Path absolutePath = path.toAbsolutePath();
+        final Path normalizedPath = absolutePath.normalize();
+        try {
+            return normalizedPath.toRealPath();
+        } catch (final IOException e) {
+            // nonexistent file
+            return normalizedPath;
+        }
+    }
+
+    private final Map<Path, SourceRootScan> scans = new ConcurrentHashMap<>();
+
+    private final MavenSession session;
+
+    SourceRootScanCache(final MavenSession session) {
+        this.session = session;
+    }
+
+    /**
+     * The {@link org.apache.maven.project.MavenProject} (and therefore its context) may outlive the session (e.g. in m2e), so the cache must
+     * only be used by the session that created it.
+     */
+    boolean belongsTo(final MavenSession other) {
+        return session == other;
+    }
+
+    /**
+     * Only for tests: check whether a scan of the given root is cached, without scanning it.
+     */
+    boolean contains(final File root) {
+        final Path key = toKey(root);
+        return scans.containsKey(key);
+    }
+
+    SourceRootScan get(final File root) {
+        final Path key = toKey(root);
+        final SourceRootScan cached = scans.get(key);
+        if ((cached != null) && cached.isCurrent()) {
+            return cached;
+        }
+
+        final SourceRootScan scan = SourceRootScan.scan(root);
+        scans.put(key, scan);
+        return scan;
+    }
+
+    /**
+     * Drops the scans of the given folder and of all source roots containing it.
+     */
+    void invalidate(final File folder) {
+        final Path path = toKey(folder);
+        scans.keySet().removeIf(path::startsWith);
+    }
+}
@@ -26,6 +26,7 @@ import java.util.Arrays;
 import java.util.List;
 
 import org.apache.commons.io.IOUtils;
+import org.apache.maven.execution.MavenSession;
 import org.apache.maven.project.MavenProject;
 import org.junit.Assert;
 import org.junit.Rule;
@@ -79,15 +80,75 @@ public class PackageInfoPluginTest {
     }
 
     @Test
-    public void doesFileAlreadyExistInSourceRootsTest() throws Exception {
+    public void executeCachedTest() throws Exception {
         final File root = temporaryFolder.getRoot();
-        final List<String> compileSourceRoots = Arrays.asList(root.getPath());
 
-        temporaryFolder.newFolder("net", "example");
-        temporaryFolder.newFile("net/example/package-info.java");
-        Assert.assertTrue("package-info.java must exists", PackageInfoPlugin.doesFileAlreadyExistInSourceRoots("net/example/package-info.java", root, compileSourceRoots));
+        final MavenSession sessionMock = Mockito.mock(MavenSession.class);
+        final SourceRootScanCache cache = new SourceRootScanCache(sessionMock);
+        final MavenProject projectMock = Mockito.mock(MavenProject.class);
+        Mockito.when(projectMock.getBasedir()).thenReturn(root);
+        Mockito.when(projectMock.getContextValue(SourceRootScanCache.CONTEXT_KEY)).thenReturn(cache);
+
+        final PackageConfiguration configuration = new PackageConfiguration();
+        final List<String> configurationAnnotations = Arrays.asList("// example");
+        configuration.setAnnotations(configurationAnnotations);
+        final List<PackageConfiguration> configurations = Arrays.asList(configuration);
+
+        final File source = temporaryFolder.newFolder("source");
+        final String sourcePath = source.getPath();
+        final List<String> sources = Arrays.asList(sourcePath);
+
+        final File output = temporaryFolder.newFolder("output");
 
-        Assert.assertFalse("package-info.java must not exists", PackageInfoPlugin.doesFileAlreadyExistInSourceRoots("net/example/foo/package-info.java", root, compileSourceRoots));
+        final PackageInfoPlugin plugin = new PackageInfoPlugin();
+        plugin.setProject(projectMock);
+        plugin.setSession(sessionMock);
+        plugin.setEncoding("UTF-8");
+        plugin.setOutputDirectory(output);
+        plugin.setCompileSourceRoots(sources);
+        plugin.setPackages(configurations);
+
+        temporaryFolder.newFolder("source", "net", "example", "missing");
+        temporaryFolder.newFile("source/net/example/missing/Test.java");
+        // recently modified folders can't be cached
+        SourceRootScanTest.makeOlder(source);
+
+        plugin.execute();
+
+        Assert.assertTrue("first execution must cache scan", cache.contains(source));
+        final SourceRootScan scan = cache.get(source);
+        Assert.assertTrue("package-info.java must be generated", new File(output, "net/example/missing/package-info.java").isFile());
+
+        // output of the first execution is a source root of the second execution
+        final String outputPath = output.getPath();
+        final List<String> sourcesWithOutput = Arrays.asList(sourcePath, outputPath);
+        final File otherOutput = temporaryFolder.newFolder("otherOutput");
+        plugin.setCompileSourceRoots(sourcesWithOutput);
+        plugin.setOutputDirectory(otherOutput);
+        plugin.execute();
+
+        Assert.assertSame("second execution must reuse scan", scan, cache.get(source));
+        Assert.assertFalse("package-info.java already exists in output of first execution", new File(otherOutput, "net/example/missing/package-info.java").exists());
+    }
+
+    @Test
+    public void executeOtherSessionTest() throws Exception {
+        final MavenSession sessionMock = Mockito.mock(MavenSession.class);
+        final SourceRootScanCache cache = new SourceRootScanCache(sessionMock);
+        final MavenProject projectMock = Mockito.mock(MavenProject.class);
+        Mockito.when(projectMock.getContextValue(SourceRootScanCache.CONTEXT_KEY)).thenReturn(cache);
+
+        final PackageInfoPlugin plugin = new PackageInfoPlugin();
+        plugin.setProject(projectMock);
+        plugin.setSession(sessionMock);
+        Assert.assertSame("cache of same session must be reused", cache, plugin.getSourceRootScanCache());
+
+        final MavenSession otherSessionMock = Mockito.mock(MavenSession.class);
+        plugin.setSession(otherSessionMock);
+        final SourceRootScanCache otherCache = plugin.getSourceRootScanCache();
+        Assert.assertNotSame("cache of other session must not be reused", cache, otherCache);
+        Assert.assertTrue("new cache must belong to other session", otherCache.belongsTo(otherSessionMock));
+        Mockito.verify(projectMock).setContextValue(SourceRootScanCache.CONTEXT_KEY, otherCache);
     }
 
     @Test
@@ -187,6 +248,45 @@ public class PackageInfoPluginTest {
         Assert.assertEquals("content must match", expected.toString(), getContent(new File(output, "net/example/missing/package-info.java")));
     }
 
+    @Test
+    public void executeSharedPackageTest() throws Exception {
+        final File root = temporaryFolder.getRoot();
+
+        final MavenProject projectMock = Mockito.mock(MavenProject.class);
+        Mockito.when(projectMock.getBasedir()).thenReturn(root);
+
+        final PackageConfiguration configuration = new PackageConfiguration();
+        final List<String> configurationAnnotations = Arrays.asList("// example");
+        configuration.setAnnotations(configurationAnnotations);
+        final List<PackageConfiguration> configurations = Arrays.asList(configuration);
+
+        final File source = temporaryFolder.newFolder("source");
+        final String sourcePath = source.getPath();
+        final File otherSource = temporaryFolder.newFolder("otherSource");
+        final String otherSourcePath = otherSource.getPath();
+        final List<String> sources = Arrays.asList(sourcePath, otherSourcePath);
+
+        final File output = temporaryFolder.newFolder("output");
+
+        final PackageInfoPlugin plugin = new PackageInfoPlugin();
+        plugin.setProject(projectMock);
+        plugin.setEncoding("UTF-8");
+        plugin.setOutputDirectory(output);
+        plugin.setCompileSourceRoots(sources);
+        plugin.setPackages(configurations);
+
+        // same package in both source roots, only the second one contains package-info.java
+        temporaryFolder.newFolder("source", "net", "example", "shared");
+        temporaryFolder.newFile("source/net/example/shared/Test.java");
+        temporaryFolder.newFolder("otherSource", "net", "example", "shared");
+        temporaryFolder.newFile("otherSource/net/example/shared/Other.java");
+        temporaryFolder.newFile("otherSource/net/example/shared/package-info.java");
+
+        plugin.execute();
+
+        Assert.assertFalse("package-info.java already exists in other source root", new File(output, "net/example/shared/package-info.java").exists());
+    }
+
     @Test
     public void javaFilterTest() throws Exception {
         final File javaFile = temporaryFolder.newFile("a.java");
@@ -0,0 +1,119 @@
+/**
+ * Maven package-info.java Plugin - Autogenerates package-info.java files with arbitrary headers
+ * Copyright © 2012-2018 shadowhunt (dev@shadowhunt.de)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.shadowhunt.maven.plugins.packageinfo;
+
+import java.io.File;
+
+import org.apache.maven.execution.MavenSession;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Mockito;
+
+public class SourceRootScanCacheTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void getPackageInfoTest() throws Exception {
+        final File root = temporaryFolder.newFolder("source");
+        temporaryFolder.newFolder("source", "net", "example");
+        temporaryFolder.newFile("source/net/example/Test.java");
+        SourceRootScanTest.makeOlder(root);
+
+        final SourceRootScanCache cache = new SourceRootScanCache(Mockito.mock(MavenSession.class));
+        final SourceRootScan scan = cache.get(root);
+        Assert.assertTrue("package-info.java must not exist", scan.getPackageInfos().isEmpty());
+
+        temporaryFolder.newFile("source/net/example/package-info.java");
+        final SourceRootScan packageInfoScan = cache.get(root);
+        Assert.assertNotSame("added package-info.java must be detected", scan, packageInfoScan);
+        Assert.assertFalse("package-info.java must exist", packageInfoScan.getPackageInfos().isEmpty());
+    }
+
+    @Test
+    public void getRecentlyModifiedTest() throws Exception {
+        final File root = temporaryFolder.newFolder("source");
+        temporaryFolder.newFolder("source", "net", "example");
+        temporaryFolder.newFile("source/net/example/Test.java");
+
+        // no backdating: modifications may happen within the timestamp granularity of the scan
+        final SourceRootScanCache cache = new SourceRootScanCache(Mockito.mock(MavenSession.class));
+        cache.get(root);
+
+        temporaryFolder.newFolder("source", "net", "example", "nested");
+        temporaryFolder.newFile("source/net/example/nested/Test.java");
+        final SourceRootScan nestedScan = cache.get(root);
+        Assert.assertTrue("nested package must be found", nestedScan.getPackages().contains("net" + File.separator + "example" + File.separator + "nested"));
+    }
+
+    @Test
+    public void getTest() throws Exception {
+        final File root = temporaryFolder.newFolder("source");
+        temporaryFolder.newFolder("source", "net", "example");
+        temporaryFolder.newFile("source/net/example/Test.java");
+        // make sure further modifications result in a different modification time
+        SourceRootScanTest.makeOlder(root);
+
+        final SourceRootScanCache cache = new SourceRootScanCache(Mockito.mock(MavenSession.class));
+        final SourceRootScan scan = cache.get(root);
+        Assert.assertSame("unmodified source root must not be scanned again", scan, cache.get(root));
+
+        temporaryFolder.newFolder("source", "net", "example", "nested");
+        temporaryFolder.newFile("source/net/example/nested/Test.java");
+        final SourceRootScan nestedScan = cache.get(root);
+        Assert.assertNotSame("nested package must be detected", scan, nestedScan);
+        Assert.assertTrue("nested package must be found", nestedScan.getPackages().contains("net" + File.separator + "example" + File.separator + "nested"));
+    }
+
+    @Test
+    public void invalidateNormalizedTest() throws Exception {
+        final File parent = temporaryFolder.newFolder("target", "generated-sources");
+        final File output = temporaryFolder.newFolder("target", "generated-sources", "package-info");
+        final File unnormalizedParent = new File(temporaryFolder.getRoot(), "target/../target/generated-sources");
+        SourceRootScanTest.makeOlder(parent);
+
+        final SourceRootScanCache cache = new SourceRootScanCache(Mockito.mock(MavenSession.class));
+        final SourceRootScan scan = cache.get(unnormalizedParent);
+        Assert.assertSame("same folder must share scan", scan, cache.get(parent));
+
+        cache.invalidate(output);
+        Assert.assertNotSame("parent of output directory must be invalidated", scan, cache.get(unnormalizedParent));
+    }
+
+    @Test
+    public void invalidateTest() throws Exception {
+        final File parent = temporaryFolder.newFolder("generated-sources");
+        final File output = temporaryFolder.newFolder("generated-sources", "package-info");
+        final File other = temporaryFolder.newFolder("other");
+        SourceRootScanTest.makeOlder(parent);
+        SourceRootScanTest.makeOlder(other);
+
+        final SourceRootScanCache cache = new SourceRootScanCache(Mockito.mock(MavenSession.class));
+        final SourceRootScan parentScan = cache.get(parent);
+        final SourceRootScan outputScan = cache.get(output);
+        final SourceRootScan otherScan = cache.get(other);
+
+        cache.invalidate(output);
+        Assert.assertNotSame("output directory must be invalidated", outputScan, cache.get(output));
+        Assert.assertNotSame("parent of output directory must be invalidated", parentScan, cache.get(parent));
+        Assert.assertSame("unrelated source root must be kept", otherScan, cache.get(other));
+    }
+}
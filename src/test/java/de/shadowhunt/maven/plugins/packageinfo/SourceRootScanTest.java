@@ -0,0 +1,82 @@
+/**
+ * Maven package-info.java Plugin - Autogenerates package-info.java files with arbitrary headers
+ * Copyright © 2012-2018 shadowhunt (dev@shadowhunt.de)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.shadowhunt.maven.plugins.packageinfo;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class SourceRootScanTest {
+
+    /**
+     * Moves the modification time of the folder and all its sub folders out of the timestamp granularity of scans.
+     */
+    static void makeOlder(final File folder) {
+        if (!folder.isDirectory()) {
+            return;
+        }
+
+        final long lastModified = folder.lastModified() - 10_000L;
+        for (final File child : folder.listFiles()) {
+            makeOlder(child);
+        }
+        Assert.assertTrue("modification time must be changeable", folder.setLastModified(lastModified));
+    }
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void scanRecentlyModifiedTest() throws Exception {
+        final File root = temporaryFolder.getRoot();
+
+        temporaryFolder.newFolder("net", "example");
+        temporaryFolder.newFile("net/example/Test.java");
+
+        final SourceRootScan scan = SourceRootScan.scan(root);
+        Assert.assertFalse("recently modified folders can't be verified", scan.isCurrent());
+    }
+
+    @Test
+    public void scanTest() throws Exception {
+        final File root = temporaryFolder.getRoot();
+
+        temporaryFolder.newFolder("net", "example", "foo");
+        temporaryFolder.newFile("net/example/package-info.java");
+        temporaryFolder.newFile("net/example/foo/Test.java");
+        temporaryFolder.newFolder("net", "example", "bar");
+        temporaryFolder.newFile("net/example/bar/Test.class");
+        makeOlder(root);
+
+        final SourceRootScan scan = SourceRootScan.scan(root);
+        final String example = "net" + File.separator + "example";
+        final String foo = example + File.separator + "foo";
+        Assert.assertEquals("packages must match", new HashSet<>(Arrays.asList(example, foo)), scan.getPackages());
+        Assert.assertEquals("package-info.java must exists", Collections.singleton(example), scan.getPackageInfos());
+        Assert.assertTrue("scan must be current", scan.isCurrent());
+
+        temporaryFolder.newFile("net/example/bar/package-info.java");
+        Assert.assertFalse("scan must be outdated", scan.isCurrent());
+    }
+}